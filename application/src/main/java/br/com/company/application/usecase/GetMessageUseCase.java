@@ -3,6 +3,8 @@ package br.com.company.application.usecase;
 import br.com.company.core.domain.usecase.MessageService;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 /**
  * Application Service - Orchestrates message retrieval use case
  */
@@ -15,7 +17,7 @@ public class GetMessageUseCase {
         this.messageService = messageService;
     }
 
-    public String execute(String id) {
+    public String execute(UUID id) {
         // Application-level orchestration
         return messageService.getMessage(id);
     }
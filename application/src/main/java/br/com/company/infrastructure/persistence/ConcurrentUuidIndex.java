@@ -0,0 +1,178 @@
+package br.com.company.infrastructure.persistence;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Objects;
+
+/**
+ * Concurrent open-addressing hash index keyed by a UUID's 128-bit value
+ * stored as two longs - no key String, byte array or map node per entry
+ *
+ * Concurrency model:
+ * - Reads are lock-free: a slot's value is published with release semantics
+ *   after its key, so a reader that observes the value also observes the key
+ * - Writes are striped: each stripe owns its own table and monitor
+ * - Resizing copies a stripe into a new table and publishes it with a single
+ *   volatile write; readers keep probing the old table meanwhile
+ *
+ * Resizing is not lock-free: the copy runs under the stripe's monitor, so
+ * writers block during a stripe resize; readers do not.
+ *
+ * The index is insert-only (no removal), which is what keeps lock-free reads
+ * safe without tombstones. Null values are not supported: a null value marks
+ * an empty slot.
+ *
+ * @param <V> the value type
+ */
+final class ConcurrentUuidIndex<V> {
+
+    private static final int STRIPE_COUNT = 16;
+    private static final int STRIPE_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(STRIPE_COUNT);
+    private static final int INITIAL_STRIPE_CAPACITY = 16;
+
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    ConcurrentUuidIndex() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * @return the value stored for the key, or null if absent
+     */
+    @SuppressWarnings("unchecked")
+    V get(long mostSignificantBits, long leastSignificantBits) {
+        long hash = hash(mostSignificantBits, leastSignificantBits);
+        return (V) stripeFor(hash).get(mostSignificantBits, leastSignificantBits, hash);
+    }
+
+    /**
+     * Stores the value, replacing any previous value for the key
+     * @return the previous value, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    V put(long mostSignificantBits, long leastSignificantBits, V value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        long hash = hash(mostSignificantBits, leastSignificantBits);
+        return (V) stripeFor(hash).put(mostSignificantBits, leastSignificantBits, hash, value);
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(long hash) {
+        // Top bits pick the stripe, low bits pick the slot, so the two stay independent
+        return stripes[(int) (hash >>> STRIPE_SHIFT)];
+    }
+
+    /**
+     * Murmur3 64-bit finalizer over both halves: random (v4) UUIDs are already
+     * well spread, but time-based or hand-made ids are not
+     */
+    private static long hash(long mostSignificantBits, long leastSignificantBits) {
+        long h = mostSignificantBits ^ Long.rotateLeft(leastSignificantBits, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * Linear-probing table: slot i holds its key in keys[2i] / keys[2i + 1]
+     * and its value in values[i]. Capacity is always a power of two.
+     */
+    private static final class Table {
+
+        private final long[] keys;
+        private final Object[] values;
+        private final int mask;
+        private final int threshold;
+
+        Table(int capacity) {
+            this.keys = new long[capacity * 2];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            this.threshold = capacity - (capacity >>> 2); // load factor 0.75
+        }
+    }
+
+    private static final class Stripe {
+
+        private volatile Table table = new Table(INITIAL_STRIPE_CAPACITY);
+        private int size; // guarded by this
+
+        Object get(long mostSignificantBits, long leastSignificantBits, long hash) {
+            Table current = table;
+            for (int slot = (int) hash & current.mask; ; slot = (slot + 1) & current.mask) {
+                Object value = VALUES.getAcquire(current.values, slot);
+                if (value == null) {
+                    return null;
+                }
+                if (current.keys[2 * slot] == mostSignificantBits
+                        && current.keys[2 * slot + 1] == leastSignificantBits) {
+                    return value;
+                }
+            }
+        }
+
+        synchronized Object put(long mostSignificantBits, long leastSignificantBits, long hash, Object value) {
+            Table current = table;
+            for (int slot = (int) hash & current.mask; ; slot = (slot + 1) & current.mask) {
+                Object previous = current.values[slot];
+                if (previous == null) {
+                    current.keys[2 * slot] = mostSignificantBits;
+                    current.keys[2 * slot + 1] = leastSignificantBits;
+                    VALUES.setRelease(current.values, slot, value);
+                    if (++size > current.threshold) {
+                        table = resize(current);
+                    }
+                    return null;
+                }
+                if (current.keys[2 * slot] == mostSignificantBits
+                        && current.keys[2 * slot + 1] == leastSignificantBits) {
+                    VALUES.setRelease(current.values, slot, value);
+                    return previous;
+                }
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        /**
+         * Builds a doubled copy off to the side; the old table is never
+         * written again, so readers still probing it see a consistent snapshot.
+         * Runs under the stripe's monitor: writers to this stripe wait for the copy
+         */
+        private static Table resize(Table old) {
+            Table resized = new Table(old.values.length * 2);
+            for (int i = 0; i < old.values.length; i++) {
+                Object value = old.values[i];
+                if (value == null) {
+                    continue;
+                }
+                long mostSignificantBits = old.keys[2 * i];
+                long leastSignificantBits = old.keys[2 * i + 1];
+                int slot = (int) hash(mostSignificantBits, leastSignificantBits) & resized.mask;
+                while (resized.values[slot] != null) {
+                    slot = (slot + 1) & resized.mask;
+                }
+                resized.keys[2 * slot] = mostSignificantBits;
+                resized.keys[2 * slot + 1] = leastSignificantBits;
+                resized.values[slot] = value;
+            }
+            return resized;
+        }
+    }
+}
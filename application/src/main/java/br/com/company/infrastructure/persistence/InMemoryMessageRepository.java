@@ -4,9 +4,8 @@ import br.com.company.core.domain.model.Message;
 import br.com.company.core.domain.repository.MessageRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.UUID;
 
 /**
  * Repository Implementation (Adapter) - Infrastructure Layer
@@ -14,21 +13,37 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * Implements the PORT (interface) defined in Domain layer
  * This layer CAN depend on frameworks and external libraries
+ *
+ * Storage is keyed by the ID's 128-bit UUID value (see ConcurrentUuidIndex),
+ * so only canonical UUID IDs - the ones MessageService generates - can be saved.
+ * IDs therefore match by value: hex digits compare case-insensitively, as with
+ * UUID.fromString.
  */
 @Repository
 public class InMemoryMessageRepository implements MessageRepository {
 
-    private final Map<String, Message> storage = new ConcurrentHashMap<>();
+    private final ConcurrentUuidIndex<Message> storage = new ConcurrentUuidIndex<>();
 
     @Override
     public Message save(Message message) {
-        storage.put(message.getId(), message);
+        String id = message.getId();
+        if (!UuidStrings.isCanonical(id)) {
+            throw new IllegalArgumentException("Message ID must be a canonical UUID: " + id);
+        }
+        storage.put(UuidStrings.mostSignificantBits(id), UuidStrings.leastSignificantBits(id), message);
         return message;
     }
 
     @Override
     public Optional<Message> findById(String id) {
-        return Optional.ofNullable(storage.get(id));
+        if (!UuidStrings.isCanonical(id)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(storage.get(UuidStrings.mostSignificantBits(id), UuidStrings.leastSignificantBits(id)));
     }
-}
 
+    @Override
+    public Optional<Message> findById(UUID id) {
+        return Optional.ofNullable(storage.get(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.company.infrastructure.persistence;
+
+import java.util.Arrays;
+
+/**
+ * Allocation-free parsing of canonical UUID strings (8-4-4-4-12 hex digits)
+ * into their 128-bit value, as used by ConcurrentUuidIndex keys
+ *
+ * Unlike UUID.fromString, this creates no UUID object and accepts only the
+ * canonical 36-char form that UUID.toString produces.
+ */
+final class UuidStrings {
+
+    private static final int CANONICAL_LENGTH = 36;
+
+    /**
+     * Digit value per ASCII char, -1 for non-hex chars. A table lookup avoids the
+     * mispredicted branches a range check takes on random hex digits
+     */
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            HEX_VALUES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private UuidStrings() {
+    }
+
+    static boolean isCanonical(String value) {
+        if (value == null || value.length() != CANONICAL_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < CANONICAL_LENGTH; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (c >= HEX_VALUES.length || HEX_VALUES[c] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param value a canonical UUID string (see isCanonical)
+     * @return the same value as UUID.fromString(value).getMostSignificantBits()
+     */
+    static long mostSignificantBits(String value) {
+        long bits = parseHex(value, 0, 8, 0L);
+        bits = parseHex(value, 9, 13, bits);
+        return parseHex(value, 14, 18, bits);
+    }
+
+    /**
+     * @param value a canonical UUID string (see isCanonical)
+     * @return the same value as UUID.fromString(value).getLeastSignificantBits()
+     */
+    static long leastSignificantBits(String value) {
+        long bits = parseHex(value, 19, 23, 0L);
+        return parseHex(value, 24, 36, bits);
+    }
+
+    private static long parseHex(String value, int from, int to, long bits) {
+        for (int i = from; i < to; i++) {
+            bits = (bits << 4) | HEX_VALUES[value.charAt(i)];
+        }
+        return bits;
+    }
+}
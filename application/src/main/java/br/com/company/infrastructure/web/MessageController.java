@@ -9,11 +9,15 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Web Adapter (Infrastructure Layer)
  * Translates HTTP requests to application use cases
  * Follows: Request → Controller → Application Use Case → Domain
+ *
+ * Message IDs are parsed into UUIDs here, at the boundary: malformed IDs are
+ * rejected with 400 Bad Request before reaching the use case.
  */
 @RestController
 @RequestMapping("/messages")
@@ -37,7 +41,7 @@ public class MessageController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, String>> getMessage(@PathVariable String id) {
+    public ResponseEntity<Map<String, String>> getMessage(@PathVariable("id") UUID id) {
         String content = getMessageUseCase.execute(id);
 
         Map<String, String> response = new HashMap<>();
@@ -0,0 +1,180 @@
+package br.com.company.infrastructure.persistence;
+
+import br.com.company.core.domain.model.Message;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comparison Report - NO Spring context
+ * Compares ConcurrentUuidIndex with the String-keyed ConcurrentHashMap it replaced:
+ * retained heap per entry (payloads excluded) and single-thread lookup throughput
+ *
+ * The map's key is the Message's own id String, so the map only pays a node and
+ * a table slot per entry. The index pays 20 bytes per slot, i.e. ~27 bytes per
+ * entry at full load and ~53 right after a resize, so heap is reported at both.
+ * String lookups run on fresh String copies each round, so the map pays for
+ * hashing as it would for an id arriving with a request.
+ *
+ * Slow and GC-dependent, so it only reports numbers and never gates the build.
+ * Excluded from the default run; use: mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class ConcurrentUuidIndexComparisonTest {
+
+    private static final int ENTRIES = 200_000;
+    // 16 stripes x 12288 (3/4 of 16384 slots) = 196608 entries before the next resize
+    private static final int FULLEST_ENTRIES = 180_000;
+    private static final int LOOKUP_ROUNDS = 20;
+
+    private static Message[] messages;
+    private static String[] stringIds;
+    private static UUID[] uuidIds;
+
+    @BeforeAll
+    static void setUp() {
+        messages = new Message[ENTRIES];
+        stringIds = new String[ENTRIES];
+        uuidIds = new UUID[ENTRIES];
+        for (int i = 0; i < ENTRIES; i++) {
+            UUID id = UUID.randomUUID();
+            uuidIds[i] = id;
+            stringIds[i] = id.toString();
+            messages[i] = new Message(id.toString(), "content");
+        }
+    }
+
+    @Test
+    void shouldReportRetainedHeapPerEntry() {
+        System.out.println("Retained heap per entry (payloads excluded):");
+        reportRetainedHeap("fullest tables", FULLEST_ENTRIES);
+        reportRetainedHeap("just resized", ENTRIES);
+    }
+
+    @Test
+    void shouldReportLookupThroughput() {
+        Map<String, Message> map = buildMap(ENTRIES);
+        ConcurrentUuidIndex<Message> index = buildIndex(ENTRIES);
+
+        double mapRate = lookupsPerMicrosecond(ids -> {
+            int found = 0;
+            for (String id : ids) {
+                if (map.get(id) != null) {
+                    found++;
+                }
+            }
+            return found;
+        });
+        double parsedIndexRate = lookupsPerMicrosecond(ids -> {
+            int found = 0;
+            for (String id : ids) {
+                if (index.get(UuidStrings.mostSignificantBits(id), UuidStrings.leastSignificantBits(id)) != null) {
+                    found++;
+                }
+            }
+            return found;
+        });
+        double indexRate = lookupsPerMicrosecond(ids -> {
+            int found = 0;
+            for (UUID id : uuidIds) {
+                if (index.get(id.getMostSignificantBits(), id.getLeastSignificantBits()) != null) {
+                    found++;
+                }
+            }
+            return found;
+        });
+
+        System.out.printf("Lookup throughput (%d entries, single thread):%n", ENTRIES);
+        System.out.printf("  %-40s %10.1f lookups/us%n", "ConcurrentHashMap.get(String)", mapRate);
+        System.out.printf("  %-40s %10.1f lookups/us%n", "ConcurrentUuidIndex.get (parse String)", parsedIndexRate);
+        System.out.printf("  %-40s %10.1f lookups/us%n", "ConcurrentUuidIndex.get (UUID bits)", indexRate);
+    }
+
+    private static void reportRetainedHeap(String label, int entries) {
+        double mapPerEntry = retainedPerEntry(() -> buildMap(entries), entries);
+        double indexPerEntry = retainedPerEntry(() -> buildIndex(entries), entries);
+        System.out.printf("  %d entries (%s):%n", entries, label);
+        System.out.printf("    %-40s %10.1f bytes%n", "ConcurrentHashMap<String, Message>", mapPerEntry);
+        System.out.printf("    %-40s %10.1f bytes%n", "ConcurrentUuidIndex<Message>", indexPerEntry);
+    }
+
+    private static Map<String, Message> buildMap(int entries) {
+        Map<String, Message> map = new ConcurrentHashMap<>();
+        for (int i = 0; i < entries; i++) {
+            map.put(messages[i].getId(), messages[i]);
+        }
+        return map;
+    }
+
+    private static ConcurrentUuidIndex<Message> buildIndex(int entries) {
+        ConcurrentUuidIndex<Message> index = new ConcurrentUuidIndex<>();
+        for (int i = 0; i < entries; i++) {
+            index.put(uuidIds[i].getMostSignificantBits(), uuidIds[i].getLeastSignificantBits(), messages[i]);
+        }
+        return index;
+    }
+
+    /**
+     * Heap still in use after building the structure, measured across full GCs
+     * Messages and their id Strings are allocated up front, so only the
+     * structure's own overhead is counted. Depends on the collector and is
+     * meaningless under -XX:+DisableExplicitGC
+     */
+    private static double retainedPerEntry(Supplier<Object> builder, int entries) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        collectGarbage();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        Object structure = builder.get();
+        collectGarbage();
+        long after = memory.getHeapMemoryUsage().getUsed();
+        Reference.reachabilityFence(structure);
+        return (double) (after - before) / entries;
+    }
+
+    private static void collectGarbage() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+    }
+
+    /**
+     * Times only the lookups; the fresh id copies are made before each round
+     * @param round performs one lookup per entry and returns how many were found
+     */
+    private static double lookupsPerMicrosecond(ToIntFunction<String[]> round) {
+        for (int i = 0; i < LOOKUP_ROUNDS; i++) {
+            assertEquals(ENTRIES, round.applyAsInt(freshCopies(stringIds)));
+        }
+        long elapsedNanos = 0;
+        for (int i = 0; i < LOOKUP_ROUNDS; i++) {
+            String[] ids = freshCopies(stringIds);
+            long start = System.nanoTime();
+            int found = round.applyAsInt(ids);
+            elapsedNanos += System.nanoTime() - start;
+            assertEquals(ENTRIES, found);
+        }
+        return (double) ENTRIES * LOOKUP_ROUNDS * 1_000 / elapsedNanos;
+    }
+
+    /**
+     * new String(String) would share the cached hash, so copy via char[]
+     */
+    private static String[] freshCopies(String[] ids) {
+        String[] copies = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            copies[i] = new String(ids[i].toCharArray());
+        }
+        return copies;
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.company.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pure Unit Test - NO Spring context
+ * Tests the open-addressing index, including growth and concurrent access
+ */
+class ConcurrentUuidIndexTest {
+
+    @Test
+    void shouldReturnStoredValue() {
+        // Given
+        ConcurrentUuidIndex<String> index = new ConcurrentUuidIndex<>();
+        UUID id = UUID.randomUUID();
+
+        // When
+        String previous = index.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), "value");
+
+        // Then
+        assertNull(previous);
+        assertEquals("value", index.get(id.getMostSignificantBits(), id.getLeastSignificantBits()));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void shouldReturnNullForMissingKey() {
+        ConcurrentUuidIndex<String> index = new ConcurrentUuidIndex<>();
+        index.put(1L, 2L, "value");
+
+        assertNull(index.get(2L, 1L));
+        assertNull(index.get(1L, 3L));
+    }
+
+    @Test
+    void shouldReplaceValueForExistingKey() {
+        // Given
+        ConcurrentUuidIndex<String> index = new ConcurrentUuidIndex<>();
+        index.put(1L, 2L, "first");
+
+        // When
+        String previous = index.put(1L, 2L, "second");
+
+        // Then
+        assertEquals("first", previous);
+        assertEquals("second", index.get(1L, 2L));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void shouldKeepAllEntriesWhileGrowing() {
+        // Given - sequential keys hash poorly without mixing
+        ConcurrentUuidIndex<Long> index = new ConcurrentUuidIndex<>();
+        int count = 100_000;
+
+        // When
+        for (long i = 0; i < count; i++) {
+            index.put(0L, i, i);
+        }
+
+        // Then
+        assertEquals(count, index.size());
+        for (long i = 0; i < count; i++) {
+            assertEquals(i, index.get(0L, i));
+        }
+        assertNull(index.get(0L, count));
+    }
+
+    @Test
+    void shouldRejectNullValue() {
+        ConcurrentUuidIndex<String> index = new ConcurrentUuidIndex<>();
+
+        assertThrows(NullPointerException.class, () -> index.put(1L, 2L, null));
+    }
+
+    @Test
+    void readersShouldSeeEveryCompletedWriteWhileWritersGrowTheIndex() throws Exception {
+        // Given
+        ConcurrentUuidIndex<UUID> index = new ConcurrentUuidIndex<>();
+        int writers = 4;
+        int perWriter = 50_000;
+        UUID[][] keys = new UUID[writers][perWriter];
+        for (UUID[] writerKeys : keys) {
+            for (int i = 0; i < perWriter; i++) {
+                writerKeys[i] = UUID.randomUUID();
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(writers * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        // When - each writer's reader follows it, checking keys it already wrote
+        for (UUID[] writerKeys : keys) {
+            int[] written = {0};
+            Object progress = new Object();
+            tasks.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perWriter; i++) {
+                    UUID key = writerKeys[i];
+                    index.put(key.getMostSignificantBits(), key.getLeastSignificantBits(), key);
+                    synchronized (progress) {
+                        written[0] = i + 1;
+                    }
+                }
+                return null;
+            }));
+            tasks.add(executor.submit(() -> {
+                start.await();
+                int checked = 0;
+                while (checked < perWriter) {
+                    int available;
+                    synchronized (progress) {
+                        available = written[0];
+                    }
+                    for (; checked < available; checked++) {
+                        UUID key = writerKeys[checked];
+                        assertEquals(key, index.get(key.getMostSignificantBits(), key.getLeastSignificantBits()));
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        // Then
+        for (Future<?> task : tasks) {
+            task.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        assertEquals(writers * perWriter, index.size());
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.company.infrastructure.persistence;
+
+import br.com.company.core.domain.model.Message;
+import br.com.company.support.AllocationBudget;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+/**
+ * Allocation Regression Test - NO Spring context
+ * Guards the bytes allocated per call on the in-memory repository adapter
+ */
+class InMemoryMessageRepositoryAllocationTest {
+
+    // Keeps the measured saves (28k-38k entries) between two index resize points
+    // (~24.5k and ~49k): a resize is a one-off copy, not a per-save cost
+    private static final int WARMUP_ITERATIONS = 28_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    @Test
+    void saveShouldStayWithinAllocationBudget() {
+        InMemoryMessageRepository repository = new InMemoryMessageRepository();
+        Message[] messages = new Message[WARMUP_ITERATIONS + MEASURED_ITERATIONS];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = new Message(UUID.randomUUID().toString(), "content");
+        }
+        int[] next = {0};
+        Message existing = repository.save(new Message(UUID.randomUUID().toString(), "content"));
+
+        new AllocationBudget(WARMUP_ITERATIONS, MEASURED_ITERATIONS)
+                .measure("InMemoryMessageRepository.save (new id)", 16, () -> repository.save(messages[next[0]++]))
+                .measure("InMemoryMessageRepository.save (same id)", 16, () -> repository.save(existing))
+                .assertWithinBudget();
+    }
+
+    @Test
+    void findByIdShouldStayWithinAllocationBudget() {
+        InMemoryMessageRepository repository = new InMemoryMessageRepository();
+        for (int i = 0; i < 1_000; i++) {
+            repository.save(new Message(UUID.randomUUID().toString(), "content"));
+        }
+        String existingId = repository.save(new Message(UUID.randomUUID().toString(), "content")).getId();
+        String missingId = UUID.randomUUID().toString();
+        UUID existingUuid = UUID.fromString(existingId);
+        UUID missingUuid = UUID.fromString(missingId);
+
+        new AllocationBudget()
+                .measure("InMemoryMessageRepository.findById (found)", 48, () -> repository.findById(existingId))
+                .measure("InMemoryMessageRepository.findById (not found)", 16, () -> repository.findById(missingId))
+                .measure("InMemoryMessageRepository.findById (UUID, found)", 48, () -> repository.findById(existingUuid))
+                .measure("InMemoryMessageRepository.findById (UUID, not found)", 16, () -> repository.findById(missingUuid))
+                .assertWithinBudget();
+    }
+}
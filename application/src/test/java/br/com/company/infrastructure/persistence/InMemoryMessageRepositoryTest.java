@@ -0,0 +1,79 @@
+package br.com.company.infrastructure.persistence;
+
+import br.com.company.core.domain.model.Message;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pure Unit Test - NO Spring context
+ * Tests the in-memory adapter against the MessageRepository port contract
+ */
+class InMemoryMessageRepositoryTest {
+
+    private InMemoryMessageRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryMessageRepository();
+    }
+
+    @Test
+    void shouldFindSavedMessageByStringAndUuidId() {
+        // Given
+        UUID id = UUID.randomUUID();
+        Message message = new Message(id.toString(), "Test content");
+
+        // When
+        repository.save(message);
+
+        // Then
+        assertEquals(Optional.of(message), repository.findById(id.toString()));
+        assertEquals(Optional.of(message), repository.findById(id));
+    }
+
+    @Test
+    void shouldReplaceMessageWithSameId() {
+        // Given
+        String id = UUID.randomUUID().toString();
+        repository.save(new Message(id, "first"));
+
+        // When
+        repository.save(new Message(id, "second"));
+
+        // Then
+        assertEquals("second", repository.findById(id).map(Message::getContent).orElseThrow());
+    }
+
+    @Test
+    void shouldMatchIdsCaseInsensitively() {
+        // Given
+        String id = UUID.randomUUID().toString();
+        Message message = new Message(id, "Test content");
+
+        // When
+        repository.save(message);
+
+        // Then
+        assertEquals(Optional.of(message), repository.findById(id.toUpperCase()));
+    }
+
+    @Test
+    void shouldReturnEmptyForUnknownOrMalformedId() {
+        assertTrue(repository.findById(UUID.randomUUID()).isEmpty());
+        assertTrue(repository.findById(UUID.randomUUID().toString()).isEmpty());
+        assertTrue(repository.findById("nonexistent").isEmpty());
+        assertTrue(repository.findById((String) null).isEmpty());
+    }
+
+    @Test
+    void shouldRejectMessageWithNonUuidId() {
+        Message message = new Message("123", "Test content");
+
+        assertThrows(IllegalArgumentException.class, () -> repository.save(message));
+    }
+}
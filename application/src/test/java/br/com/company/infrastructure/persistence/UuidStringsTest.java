@@ -0,0 +1,50 @@
+package br.com.company.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pure Unit Test - NO Spring context
+ * Parsing must agree with java.util.UUID for every canonical string
+ */
+class UuidStringsTest {
+
+    @Test
+    void shouldParseSameBitsAsUuidFromString() {
+        for (int i = 0; i < 10_000; i++) {
+            UUID expected = UUID.randomUUID();
+            String value = expected.toString();
+
+            assertTrue(UuidStrings.isCanonical(value));
+            assertEquals(expected.getMostSignificantBits(), UuidStrings.mostSignificantBits(value));
+            assertEquals(expected.getLeastSignificantBits(), UuidStrings.leastSignificantBits(value));
+        }
+    }
+
+    @Test
+    void shouldAcceptUpperCaseHexDigits() {
+        UUID expected = UUID.fromString("123E4567-E89B-12D3-A456-426614174000");
+        String value = "123E4567-E89B-12D3-A456-426614174000";
+
+        assertTrue(UuidStrings.isCanonical(value));
+        assertEquals(expected.getMostSignificantBits(), UuidStrings.mostSignificantBits(value));
+        assertEquals(expected.getLeastSignificantBits(), UuidStrings.leastSignificantBits(value));
+    }
+
+    @Test
+    void shouldRejectNonCanonicalStrings() {
+        assertFalse(UuidStrings.isCanonical(null));
+        assertFalse(UuidStrings.isCanonical(""));
+        assertFalse(UuidStrings.isCanonical("123"));
+        assertFalse(UuidStrings.isCanonical("1-2-3-4-5"));
+        assertFalse(UuidStrings.isCanonical("123e4567e89b12d3a456426614174000"));
+        assertFalse(UuidStrings.isCanonical("123e4567-e89b-12d3-a456-42661417400g"));
+        assertFalse(UuidStrings.isCanonical("123e4567+e89b-12d3-a456-426614174000"));
+        assertFalse(UuidStrings.isCanonical("123e4567-e89b-12d3-a456-4266141740000"));
+        // Fullwidth digits are Unicode hex digits for Character.digit, but not for UUIDs
+        assertFalse(UuidStrings.isCanonical("１２３e4567-e89b-12d3-a456-426614174000"));
+    }
+}
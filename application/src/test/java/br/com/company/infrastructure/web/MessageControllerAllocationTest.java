@@ -0,0 +1,54 @@
+package br.com.company.infrastructure.web;
+
+import br.com.company.application.usecase.CreateMessageUseCase;
+import br.com.company.application.usecase.GetMessageUseCase;
+import br.com.company.core.domain.usecase.MessageService;
+import br.com.company.infrastructure.persistence.InMemoryMessageRepository;
+import br.com.company.support.AllocationBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Allocation Regression Test - NO Spring context
+ * Guards the bytes allocated per request: Controller → Use Case → Domain → Repository
+ */
+class MessageControllerAllocationTest {
+
+    // Every create inserts into the index, whose 16 stripes all resize at ~24.5k,
+    // ~49k and ~98k entries. With 28k warmup + 10k measured per operation, creates
+    // are measured at 28k-38k entries and round-trips at 66k-76k, both between
+    // resize points: a resize is a one-off copy, not a per-request cost
+    private static final int WARMUP_ITERATIONS = 28_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    private MessageController controller;
+
+    @BeforeEach
+    void setUp() {
+        MessageService messageService = new MessageService(new InMemoryMessageRepository());
+        controller = new MessageController(
+                new CreateMessageUseCase(messageService),
+                new GetMessageUseCase(messageService));
+    }
+
+    @Test
+    void messageRoundTripShouldStayWithinAllocationBudget() {
+        // HTTP (de)serialization is framework cost and out of scope; only the
+        // path-variable UUID conversion is included, as it runs per request
+        Map<String, String> request = Map.of("content", "Hello World");
+        UUID existingId = UUID.fromString(controller.createMessage(request).getBody().get("id"));
+
+        new AllocationBudget(WARMUP_ITERATIONS, MEASURED_ITERATIONS)
+                .measure("MessageController.createMessage", 800, () -> controller.createMessage(request))
+                .measure("MessageController.getMessage", 480, () -> controller.getMessage(existingId))
+                .measure("MessageController round-trip (create + get)", 1280, () -> {
+                    ResponseEntity<Map<String, String>> created = controller.createMessage(request);
+                    controller.getMessage(UUID.fromString(created.getBody().get("id")));
+                })
+                .assertWithinBudget();
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.company.infrastructure.web;
+
+import br.com.company.application.usecase.CreateMessageUseCase;
+import br.com.company.application.usecase.GetMessageUseCase;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Web Layer Test - Spring MVC slice only
+ * Tests HTTP mapping of the message endpoints; use cases are mocked
+ */
+@WebMvcTest(MessageController.class)
+class MessageControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CreateMessageUseCase createMessageUseCase;
+
+    @MockBean
+    private GetMessageUseCase getMessageUseCase;
+
+    @Test
+    void shouldReturnContentForValidId() throws Exception {
+        // Given
+        UUID id = UUID.randomUUID();
+        when(getMessageUseCase.execute(id)).thenReturn("Processed: Hello");
+
+        // When & Then
+        mockMvc.perform(get("/messages/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("Processed: Hello"));
+    }
+
+    @Test
+    void shouldRejectMalformedIdWithBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/messages/{id}", "not-a-uuid"))
+                .andExpect(status().isBadRequest());
+
+        verify(getMessageUseCase, never()).execute(any());
+    }
+}
@@ -3,6 +3,7 @@ package br.com.company.core.domain.repository;
 import br.com.company.core.domain.model.Message;
 
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Repository Interface (Port) - Defined in Domain Layer
@@ -15,8 +16,11 @@ public interface MessageRepository {
 
     /**
      * Save a message
+     * Message IDs must be canonical UUID strings (as produced by UUID.toString),
+     * which is what MessageService assigns; adapters may key storage by the UUID value
      * @param message the message to save
      * @return the saved message
+     * @throws IllegalArgumentException if the message ID is not a canonical UUID
      */
     Message save(Message message);
 
@@ -26,5 +30,15 @@ public interface MessageRepository {
      * @return Optional containing the message if found
      */
     Optional<Message> findById(String id);
+
+    /**
+     * Find a message by an ID already parsed at the boundary
+     * Adapters with UUID-keyed storage should override this to skip the String form
+     * @param id the message ID
+     * @return Optional containing the message if found
+     */
+    default Optional<Message> findById(UUID id) {
+        return findById(id.toString());
+    }
 }
 
@@ -50,5 +50,16 @@ public class MessageService {
                 .map(Message::getContent)
                 .orElse("Message not found");
     }
+
+    /**
+     * Retrieves a message by an ID already parsed at the boundary
+     * @param id the message ID
+     * @return the message content or a default message
+     */
+    public String getMessage(UUID id) {
+        return messageRepository.findById(id)
+                .map(Message::getContent)
+                .orElse("Message not found");
+    }
 }
 
@@ -0,0 +1,67 @@
+package br.com.company.core.domain.usecase;
+
+import br.com.company.core.domain.model.Message;
+import br.com.company.core.domain.repository.MessageRepository;
+import br.com.company.support.AllocationBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Allocation Regression Test - NO Spring Framework
+ * Guards the bytes allocated per call on MessageService hot paths
+ */
+class MessageServiceAllocationTest {
+
+    private MessageService messageService;
+    private SingleSlotMessageRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SingleSlotMessageRepository();
+        messageService = new MessageService(repository);
+    }
+
+    @Test
+    void createMessageShouldStayWithinAllocationBudget() {
+        new AllocationBudget()
+                .measure("MessageService.createMessage", 336, () -> messageService.createMessage("Hello World"))
+                .assertWithinBudget();
+    }
+
+    @Test
+    void getMessageShouldStayWithinAllocationBudget() {
+        Message stored = repository.save(new Message("123", "Test content"));
+        UUID missingId = UUID.randomUUID();
+
+        new AllocationBudget()
+                .measure("MessageService.getMessage (found)", 64, () -> messageService.getMessage(stored.getId()))
+                .measure("MessageService.getMessage (not found)", 16, () -> messageService.getMessage("nonexistent"))
+                .measure("MessageService.getMessage (UUID, not found)", 96, () -> messageService.getMessage(missingId))
+                .assertWithinBudget();
+    }
+
+    /**
+     * Test Double - Keeps only the last saved message
+     * Allocates nothing on save, so the budget reflects the service itself
+     */
+    private static class SingleSlotMessageRepository implements MessageRepository {
+        private Message lastSaved;
+
+        @Override
+        public Message save(Message message) {
+            this.lastSaved = message;
+            return message;
+        }
+
+        @Override
+        public Optional<Message> findById(String id) {
+            if (lastSaved != null && lastSaved.getId().equals(id)) {
+                return Optional.of(lastSaved);
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -86,6 +87,31 @@ class MessageServiceTest {
         assertEquals("Message not found", result);
     }
 
+    @Test
+    void shouldReturnMessageContentWhenFoundByUuid() {
+        // Given
+        UUID id = UUID.randomUUID();
+        testRepository.addMessage(new Message(id.toString(), "Test content"));
+
+        // When
+        String result = messageService.getMessage(id);
+
+        // Then
+        assertEquals("Test content", result);
+    }
+
+    @Test
+    void shouldReturnDefaultMessageWhenNotFoundByUuid() {
+        // Given
+        testRepository.addMessage(new Message(UUID.randomUUID().toString(), "Test content"));
+
+        // When
+        String result = messageService.getMessage(UUID.randomUUID());
+
+        // Then
+        assertEquals("Message not found", result);
+    }
+
     /**
      * Test Double - Manual implementation of repository for testing
      * No mocking framework needed - pure Java
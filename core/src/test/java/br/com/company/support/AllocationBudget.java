@@ -0,0 +1,105 @@
+package br.com.company.support;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test Support - Allocation budget assertions for hot paths
+ * Measures bytes allocated per operation on the current thread (after warmup)
+ * using com.sun.management.ThreadMXBean and fails with a per-operation breakdown
+ *
+ * Cheap and deterministic enough to run on every build; JMH remains the tool
+ * for real throughput benchmarking.
+ *
+ * Budgets sit slightly above the measured cost: raise them only when the
+ * extra allocation is intended.
+ *
+ * Usage:
+ *   new AllocationBudget()
+ *       .measure("createMessage", 512, () -> service.createMessage("Hello"))
+ *       .assertWithinBudget();
+ */
+public final class AllocationBudget {
+
+    private static final int DEFAULT_WARMUP_ITERATIONS = 50_000;
+    private static final int DEFAULT_MEASURED_ITERATIONS = 10_000;
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final int warmupIterations;
+    private final int measuredIterations;
+    private final List<Measurement> measurements = new ArrayList<>();
+
+    public AllocationBudget() {
+        this(DEFAULT_WARMUP_ITERATIONS, DEFAULT_MEASURED_ITERATIONS);
+    }
+
+    public AllocationBudget(int warmupIterations, int measuredIterations) {
+        if (measuredIterations <= 0) {
+            throw new IllegalArgumentException("Measured iterations must be positive");
+        }
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "JVM does not expose com.sun.management.ThreadMXBean");
+
+        this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(),
+                "JVM does not support per-thread allocation accounting");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+    }
+
+    /**
+     * Warms up and measures an operation, recording it against its budget
+     * @param operation name shown in the failure breakdown
+     * @param maxBytesPerOperation maximum average bytes allocated per call
+     * @param action the operation under test
+     * @return this budget, for chaining
+     */
+    public AllocationBudget measure(String operation, long maxBytesPerOperation, Runnable action) {
+        for (int i = 0; i < warmupIterations; i++) {
+            action.run();
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < measuredIterations; i++) {
+            action.run();
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        measurements.add(new Measurement(operation, (double) allocated / measuredIterations, maxBytesPerOperation));
+        return this;
+    }
+
+    /**
+     * Fails if any measured operation exceeded its budget
+     * The failure message lists every operation, not only the offending ones
+     */
+    public void assertWithinBudget() {
+        if (measurements.stream().noneMatch(Measurement::exceeded)) {
+            return;
+        }
+
+        StringBuilder report = new StringBuilder("Allocation budget exceeded (bytes/op after warmup):\n");
+        report.append(String.format("  %-48s %12s %10s%n", "operation", "measured", "budget"));
+        for (Measurement measurement : measurements) {
+            report.append(String.format("  %-48s %12.1f %10d%s%n",
+                    measurement.operation(),
+                    measurement.bytesPerOperation(),
+                    measurement.budget(),
+                    measurement.exceeded() ? "  <-- OVER BUDGET" : ""));
+        }
+        fail(report.toString());
+    }
+
+    private record Measurement(String operation, double bytesPerOperation, long budget) {
+
+        boolean exceeded() {
+            return bytesPerOperation > budget;
+        }
+    }
+}